@@ -0,0 +1,124 @@
+package personal.caojx.amount;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AmountUtils 基准测试
+ * <p>
+ * short 为单句文本，long 为约 1 万字的行政处罚决定书，金额位于末尾
+ *
+ * @author caojx
+ * @version $Id: AmountUtilsBenchmark.java,v 1.0 2026-10-19 17:00 caojx
+ * @date 2026-10-19 17:00
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AmountUtilsBenchmark {
+
+    /**
+     * 处罚决定书中与金额无关的段落
+     */
+    private static final String NOTICE_PARAGRAPH = "经查，当事人在其经营场所内发布的广告中含有虚假或者引人误解的内容，欺骗、误导消费者，"
+            + "违反了《中华人民共和国广告法》第二十八条第一款的规定，构成发布虚假广告的行为。\n"
+            + "上述事实，有现场检查笔录、当事人提供的广告设计稿、询问笔录等证据材料为证。\n"
+            + "本局已依法告知当事人拟作出行政处罚的事实、理由、依据及其依法享有的陈述、申辩和要求听证的权利，"
+            + "当事人在规定期限内未提出陈述、申辩意见，也未要求举行听证。\n";
+
+    /**
+     * 提取金额的文本
+     */
+    @State(Scope.Benchmark)
+    public static class CorpusState {
+
+        @Param({"short", "long"})
+        private String corpus;
+
+        private String numberContent;
+
+        private String chineseContent;
+
+        @Setup
+        public void setup() {
+            String prefix = "";
+            if ("long".equals(corpus)) {
+                StringBuilder sb = new StringBuilder();
+                while (sb.length() < 10 * 1024) {
+                    sb.append(NOTICE_PARAGRAPH);
+                }
+                prefix = sb.toString();
+            }
+            numberContent = prefix + "已履行行政处罚决定,罚款10000元";
+            chineseContent = prefix + "我局决定对当事人作出如下行政处罚：罚没合计:壹佰壹拾万元整。";
+        }
+    }
+
+    /**
+     * 中文大写金额
+     */
+    @State(Scope.Benchmark)
+    public static class ChineseAmountState {
+
+        @Param({"陆拾贰万贰仟玖佰壹拾玖元肆角", "拾壹亿壹仟万伍仟肆佰壹拾元贰角捌分肆厘"})
+        private String chineseAmount;
+    }
+
+    /**
+     * 数字金额
+     */
+    @State(Scope.Benchmark)
+    public static class NumberAmountState {
+
+        @Param({"86410", "100000000001.1", "10001.1034"})
+        private String numberAmount;
+
+        private BigDecimal amount;
+
+        @Setup
+        public void setup() {
+            amount = new BigDecimal(numberAmount);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal getAmountNumber(CorpusState state) {
+        return AmountUtils.getAmount(state.numberContent);
+    }
+
+    @Benchmark
+    public BigDecimal getAmountChinese(CorpusState state) {
+        return AmountUtils.getAmount(state.chineseContent);
+    }
+
+    @Benchmark
+    public BigDecimal getAmountNumberFromReader(CorpusState state) throws IOException {
+        return AmountUtils.getAmount(new StringReader(state.numberContent));
+    }
+
+    @Benchmark
+    public BigDecimal chineseAmount2Number(ChineseAmountState state) {
+        return AmountUtils.chineseAmount2Number(state.chineseAmount);
+    }
+
+    @Benchmark
+    public String numberAmount2ChineseAmount(NumberAmountState state) {
+        return AmountUtils.numberAmount2ChineseAmount(state.amount);
+    }
+}
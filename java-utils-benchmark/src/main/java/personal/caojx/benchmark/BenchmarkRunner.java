@@ -0,0 +1,197 @@
+package personal.caojx.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 运行基准测试并与基线比较
+ * <p>
+ * 参数与 JMH 命令行一致（如 -f、-wi、基准测试名正则），固定开启 GC profiler，
+ * 结果以 JSON 写入 benchmark.result（默认 target/jmh-result.json），再与 benchmark.baseline（默认 jmh-baseline.json）比较：
+ * <ul>
+ * <li>thrpt 得分下降、avgt 等耗时得分上升超过 benchmark.threshold（默认 0.1 即 10%）视为性能退化</li>
+ * <li>gc.alloc.rate.norm 上升超过 benchmark.threshold 且超过 16 B/op 视为内存分配退化</li>
+ * </ul>
+ * 有退化时以状态码 1 退出。基线文件不存在或 -Dbenchmark.updateBaseline=true 时，用本次结果作为基线
+ *
+ * @author caojx
+ * @version $Id: BenchmarkRunner.java,v 1.0 2026-10-19 17:00 caojx
+ * @date 2026-10-19 17:00
+ */
+public class BenchmarkRunner {
+
+    private static final String GC_ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+
+    /**
+     * 内存分配的波动容忍值，单位 B/op
+     */
+    private static final double ALLOC_TOLERANCE_BYTES = 16;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+
+        File resultFile = new File(System.getProperty("benchmark.result", "target/jmh-result.json"));
+        File baselineFile = new File(System.getProperty("benchmark.baseline", "jmh-baseline.json"));
+        double threshold = Double.parseDouble(System.getProperty("benchmark.threshold", "0.1"));
+        boolean updateBaseline = Boolean.getBoolean("benchmark.updateBaseline");
+
+        Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.getPath())
+                .build();
+        Runner runner = new Runner(options);
+        // 列出基准测试、profiler、结果格式时不运行，也不写入结果和基线
+        if (commandLineOptions.shouldList()) {
+            runner.list();
+            return;
+        }
+        if (commandLineOptions.shouldListWithParams()) {
+            runner.listWithParams(commandLineOptions);
+            return;
+        }
+        if (commandLineOptions.shouldListProfilers()) {
+            commandLineOptions.listProfilers();
+            return;
+        }
+        if (commandLineOptions.shouldListResultFormats()) {
+            commandLineOptions.listResultFormats();
+            return;
+        }
+
+        if (resultFile.getParentFile() != null) {
+            resultFile.getParentFile().mkdirs();
+        }
+        runner.run();
+
+        if (updateBaseline || !baselineFile.exists()) {
+            Files.copy(resultFile.toPath(), baselineFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline written to " + baselineFile.getAbsolutePath());
+            return;
+        }
+
+        List<String> regressions = compare(readScores(baselineFile), readScores(resultFile), threshold);
+        if (regressions.isEmpty()) {
+            System.out.println("No regression against baseline " + baselineFile.getAbsolutePath());
+            return;
+        }
+        System.out.println("Regressions against baseline " + baselineFile.getAbsolutePath() + ":");
+        for (String regression : regressions) {
+            System.out.println("  " + regression);
+        }
+        System.exit(1);
+    }
+
+    /**
+     * 比较本次结果与基线，只比较两边都有的基准测试
+     *
+     * @param baseline  基线得分
+     * @param current   本次得分
+     * @param threshold 允许的波动比例
+     * @return 退化描述
+     */
+    private static List<String> compare(Map<String, Score> baseline, Map<String, Score> current, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            Score after = entry.getValue();
+            // 基线得分为 0 时无法计算变化比例，只比较内存分配
+            if (before.score != 0) {
+                boolean higherIsBetter = "thrpt".equals(after.mode);
+                double change = (after.score - before.score) / before.score;
+                if (higherIsBetter ? change < -threshold : change > threshold) {
+                    regressions.add(String.format("%s: %.3f -> %.3f %s (%+.1f%%)",
+                            entry.getKey(), before.score, after.score, after.unit, change * 100));
+                }
+            }
+            if (!Double.isNaN(before.allocNorm) && !Double.isNaN(after.allocNorm)
+                    && after.allocNorm - before.allocNorm > ALLOC_TOLERANCE_BYTES
+                    && after.allocNorm > before.allocNorm * (1 + threshold)) {
+                regressions.add(String.format("%s: %s %.1f -> %.1f B/op",
+                        entry.getKey(), GC_ALLOC_RATE_NORM, before.allocNorm, after.allocNorm));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * 读取 JMH JSON 结果，key 为 基准测试名 + 模式 + 参数
+     *
+     * @param file JSON 结果文件
+     * @return
+     * @throws IOException 读取失败
+     */
+    private static Map<String, Score> readScores(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : objectMapper.readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            String mode = result.path("mode").asText();
+            key.append(' ').append(mode);
+            JsonNode params = result.path("params");
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> param = fields.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+
+            Score score = new Score();
+            score.mode = mode;
+            score.score = result.path("primaryMetric").path("score").asDouble();
+            score.unit = result.path("primaryMetric").path("scoreUnit").asText();
+            score.allocNorm = Double.NaN;
+            Iterator<Map.Entry<String, JsonNode>> secondaryMetrics = result.path("secondaryMetrics").fields();
+            while (secondaryMetrics.hasNext()) {
+                Map.Entry<String, JsonNode> metric = secondaryMetrics.next();
+                // JMH 在 profiler 指标名前加了 "·"
+                if (metric.getKey().endsWith(GC_ALLOC_RATE_NORM)) {
+                    score.allocNorm = metric.getValue().path("score").asDouble();
+                }
+            }
+            scores.put(key.toString(), score);
+        }
+        return scores;
+    }
+
+    /**
+     * 单个基准测试的得分
+     */
+    private static class Score {
+
+        private String mode;
+
+        private double score;
+
+        private String unit;
+
+        /**
+         * 每次操作分配的字节数，没有 GC profiler 数据时为 NaN
+         */
+        private double allocNorm;
+    }
+}
@@ -0,0 +1,122 @@
+package personal.caojx.placeholder;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PlaceholderUtil 占位符替换的基准测试
+ * <p>
+ * 前三个为 PlaceholderUtil#main 中的三种方式，其余为对应的预编译模板
+ *
+ * @author caojx
+ * @version $Id: PlaceholderUtilBenchmark.java,v 1.0 2026-10-19 17:00 caojx
+ * @date 2026-10-19 17:00
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlaceholderUtilBenchmark {
+
+    private static final String FORMAT_PATTERN = "%s is at the age of %s";
+
+    private static final String MESSAGE_FORMAT_PATTERN = "{0} is at the age of {1}";
+
+    private static final String TEMPLATE = "${name} is at the age of ${age}";
+
+    private static final String BEAN_TEMPLATE = "${customer.name} is at the age of ${customer.age}";
+
+    private Object[] args;
+
+    private Map<String, String> paramMap;
+
+    private Map<String, Object> order;
+
+    @Setup
+    public void setup() {
+        String name = "john";
+        int age = 26;
+        args = new Object[]{name, String.valueOf(age)};
+
+        paramMap = new HashMap<>();
+        paramMap.put("name", name);
+        paramMap.put("age", String.valueOf(age));
+
+        order = new HashMap<>();
+        order.put("customer", new Customer(name, age));
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format(FORMAT_PATTERN, args);
+    }
+
+    @Benchmark
+    public String messageFormat() {
+        return new MessageFormat(MESSAGE_FORMAT_PATTERN).format(args);
+    }
+
+    @Benchmark
+    public String stringSubstitutor() {
+        return new StringSubstitutor(paramMap).replace(TEMPLATE);
+    }
+
+    @Benchmark
+    public String compiledFormat() {
+        return PlaceholderUtil.format(FORMAT_PATTERN, args);
+    }
+
+    @Benchmark
+    public String compiledMessageFormat() {
+        return PlaceholderUtil.messageFormat(MESSAGE_FORMAT_PATTERN, args);
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return PlaceholderUtil.replace(TEMPLATE, paramMap);
+    }
+
+    @Benchmark
+    public String compiledTemplateBean() {
+        return PlaceholderUtil.replaceBean(BEAN_TEMPLATE, order);
+    }
+
+    /**
+     * renderBean 使用的测试对象
+     */
+    public static class Customer {
+
+        private final String name;
+
+        private final int age;
+
+        public Customer(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package personal.caojx.reflect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReflectConvertHelper 四种拷贝方式的基准测试
+ * <p>
+ * small 为一个带几个简单属性的对象，deep 为深度 6、每个节点 3 个子节点的树（共 1093 个节点）
+ *
+ * @author caojx
+ * @version $Id: ReflectConvertHelperBenchmark.java,v 1.0 2026-10-19 17:00 caojx
+ * @date 2026-10-19 17:00
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReflectConvertHelperBenchmark {
+
+    private static final int DEEP_GRAPH_DEPTH = 6;
+
+    private static final int DEEP_GRAPH_CHILDREN = 3;
+
+    @Param({"small", "deep"})
+    private String graph;
+
+    private Serializable source;
+
+    private PrintStream stdout;
+
+    @Setup
+    public void setup() {
+        source = "small".equals(graph) ? newSmallNode() : newTree(DEEP_GRAPH_DEPTH);
+        // fieldCopy 每次调用都会打印日志，测试时丢弃标准输出
+        stdout = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public Object fieldCopy() {
+        return ReflectConvertHelper.fieldCopy(source, new Node());
+    }
+
+    @Benchmark
+    public Object fieldCopyBySerialization() {
+        return ReflectConvertHelper.fieldCopyBySerialization(source);
+    }
+
+    @Benchmark
+    public Object fieldCopyBySerialization2() {
+        return ReflectConvertHelper.fieldCopyBySerialization2(source);
+    }
+
+    @Benchmark
+    public Object fieldCopyByJson() {
+        return ReflectConvertHelper.fieldCopyByJson(source);
+    }
+
+    private static Node newSmallNode() {
+        Node node = new Node();
+        node.setId(1L);
+        node.setName("penalty notice");
+        node.setAmount(10000.0);
+        node.setTags(new ArrayList<String>());
+        node.getTags().add("advertising");
+        node.setChildren(new ArrayList<Node>());
+        return node;
+    }
+
+    private static Node newTree(int depth) {
+        Node node = newSmallNode();
+        if (depth > 1) {
+            for (int i = 0; i < DEEP_GRAPH_CHILDREN; i++) {
+                node.getChildren().add(newTree(depth - 1));
+            }
+        }
+        return node;
+    }
+
+    /**
+     * 测试对象，满足序列化与 Jackson 的要求
+     */
+    public static class Node implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long id;
+
+        private String name;
+
+        private Double amount;
+
+        private List<String> tags;
+
+        private List<Node> children;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Double amount) {
+            this.amount = amount;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public List<Node> getChildren() {
+            return children;
+        }
+
+        public void setChildren(List<Node> children) {
+            this.children = children;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package personal.caojx.amount;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.util.regex.Matcher;
@@ -26,10 +28,20 @@ import java.util.regex.Pattern;
 //@Slf4j
 public class AmountUtils {
 
+    /**
+     * 数字加带单位的金额正则
+     */
+    private static final String numberWithUnitAmountRegxStr = "(([1-9]\\d*[\\d,，]*\\.?\\d*)|(0\\.[0-9]+))(元|万元|万)";
+
     /**
      * 纯数字、数字加带单位的金额正则
      */
-    private static final Pattern numberAmountRegx = Pattern.compile("((^[0-9]+(.[0-9]+)?$)|((([1-9]\\d*[\\d,，]*\\.?\\d*)|(0\\.[0-9]+))(元|万元|万)))");
+    private static final Pattern numberAmountRegx = Pattern.compile("((^[0-9]+(.[0-9]+)?$)|(" + numberWithUnitAmountRegxStr + "))");
+
+    /**
+     * 数字加带单位的金额正则，流式提取时使用，分段扫描时无法判断纯数字是否为全文
+     */
+    private static final Pattern numberWithUnitAmountRegx = Pattern.compile(numberWithUnitAmountRegxStr);
 
     /**
      * 中文大写金额正则 [壹贰叁肆伍陆柒捌玖拾]+[壹贰叁肆伍陆柒捌玖拾佰仟万亿元圆角分厘零整正]+
@@ -46,6 +58,16 @@ public class AmountUtils {
      */
     private static final char[] unitArray = new char[]{'整', '厘', '分', '角', '圆', '拾', '佰', '仟', '万', '亿'};
 
+    /**
+     * 流式提取时每次扫描的字符数
+     */
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    /**
+     * 流式提取时保留到下一段的字符数，用于匹配跨段的金额文本
+     */
+    private static final int STREAM_CARRY_SIZE = 256;
+
 
     /**
      * 从文本中提取金额，并将提取到的金额值转为元
@@ -81,6 +103,70 @@ public class AmountUtils {
         return BigDecimal.ZERO;
     }
 
+    /**
+     * 从字符流中提取金额，并将提取到的金额值转为元，结果与 {@link #getAmount(String)} 一致
+     * <p>
+     * 边读边分段扫描，不会把全文读入内存，读到数字金额后立即返回，不再读取剩余内容；
+     * 全文不超过 {@link #STREAM_BUFFER_SIZE} 个字符时按 {@link #getAmount(String)} 处理。
+     * 跨段的金额文本最多保留 {@link #STREAM_CARRY_SIZE} 个字符。reader 由调用方负责关闭
+     *
+     * @param reader 字符流
+     * @return
+     * @throws IOException 读取字符流失败
+     */
+    public static BigDecimal getAmount(Reader reader) throws IOException {
+        char[] chunk = new char[STREAM_BUFFER_SIZE];
+        StringBuilder window = new StringBuilder(STREAM_BUFFER_SIZE * 2);
+        String chineseAmountContent = null;
+        boolean scanned = false;
+        int len;
+        while ((len = reader.read(chunk)) != -1) {
+            // 与 getAmount(String) 一样去掉空格
+            for (int i = 0; i < len; i++) {
+                if (chunk[i] != ' ') {
+                    window.append(chunk[i]);
+                }
+            }
+            if (window.length() < STREAM_BUFFER_SIZE) {
+                continue;
+            }
+            scanned = true;
+
+            // 匹配到数字金额且匹配未到达当前段末尾，说明后续内容不会改变匹配结果
+            Matcher numberMatcher = numberWithUnitAmountRegx.matcher(window);
+            if (numberMatcher.find() && !numberMatcher.hitEnd()) {
+                return numberAmount2Number(numberMatcher.group(0));
+            }
+            // 记录第一个中文金额，没有数字金额时使用
+            if (chineseAmountContent == null) {
+                Matcher chineseMatcher = chineseAmountRegx.matcher(window);
+                if (chineseMatcher.find() && !chineseMatcher.hitEnd()) {
+                    chineseAmountContent = chineseMatcher.group(0);
+                }
+            }
+            window.delete(0, window.length() - STREAM_CARRY_SIZE);
+        }
+
+        if (!scanned) {
+            return getAmount(window.toString());
+        }
+
+        Matcher numberMatcher = numberWithUnitAmountRegx.matcher(window);
+        if (numberMatcher.find()) {
+            return numberAmount2Number(numberMatcher.group(0));
+        }
+        if (chineseAmountContent == null) {
+            Matcher chineseMatcher = chineseAmountRegx.matcher(window);
+            if (chineseMatcher.find()) {
+                chineseAmountContent = chineseMatcher.group(0);
+            }
+        }
+        if (StringUtils.isNotEmpty(chineseAmountContent)) {
+            return chineseAmount2Number(chineseAmountContent);
+        }
+        return BigDecimal.ZERO;
+    }
+
     /**
      * 提取数字金额文本
      *
@@ -0,0 +1,247 @@
+package personal.caojx.http;
+
+import org.apache.http.Consts;
+import org.apache.http.HttpEntity;
+import org.apache.http.StatusLine;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import personal.caojx.amount.AmountUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 批量抓取网页并提取金额
+ * <p>
+ * 响应体边下载边解码，解码后的字符直接交给 {@link AmountUtils#getAmount(Reader)} 提取，不在内存中保留整个页面；
+ * 提取到数字金额后即中止请求并断开连接，不再下载剩余响应体。多个url并发抓取，每个url处理完成后通过 {@link AmountListener} 回调结果
+ *
+ * @author caojx
+ * @version $Id: AmountFetchPipeline.java,v 1.0 2026-10-19 10:00 caojx
+ * @date 2026-10-19 10:00
+ */
+public class AmountFetchPipeline implements Closeable {
+
+    private final CloseableHttpClient httpClient;
+
+    private final ExecutorService executorService;
+
+    /**
+     * 正在执行和排队的任务数上限，所有调用共享
+     */
+    private final Semaphore taskPermits;
+
+    /**
+     * @param concurrency 并发抓取数
+     */
+    public AmountFetchPipeline(int concurrency) {
+        this(concurrency, concurrency);
+    }
+
+    /**
+     * @param concurrency 并发抓取数
+     * @param maxPending  排队等待抓取的url数上限，超过后 {@link #fetch(Iterator, AmountListener)} 阻塞等待
+     */
+    public AmountFetchPipeline(int concurrency, int maxPending) {
+        this(concurrency, maxPending, HttpClientUtils.DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param concurrency   并发抓取数
+     * @param maxPending    排队等待抓取的url数上限，超过后 {@link #fetch(Iterator, AmountListener)} 阻塞等待
+     * @param timeoutMillis 连接、读取、从连接池获取连接的超时时间，单位毫秒，超时的url以失败结果回调
+     */
+    public AmountFetchPipeline(int concurrency, int maxPending, int timeoutMillis) {
+        if (concurrency < 1 || maxPending < 0 || timeoutMillis < 1) {
+            throw new IllegalArgumentException("concurrency and timeoutMillis must be positive and maxPending must not be negative");
+        }
+        this.httpClient = HttpClientUtils.createPooledSSLClient(concurrency, timeoutMillis);
+        this.executorService = Executors.newFixedThreadPool(concurrency);
+        this.taskPermits = new Semaphore(concurrency + maxPending);
+    }
+
+    /**
+     * 并发抓取url并提取金额，本次调用的所有url处理完成后返回
+     * <p>
+     * listener 在抓取线程中回调，需要自行保证线程安全。listener 抛出异常后不再提交剩余url，
+     * 等已提交的url处理完成后，由本方法抛出第一个异常，之后的异常通过 {@link Throwable#getSuppressed()} 获取。
+     * 可以多个线程同时调用，各调用只等待自己提交的url，共享并发数和排队数上限
+     *
+     * @param urls     url
+     * @param listener 结果回调
+     * @throws InterruptedException 等待时被中断
+     */
+    public void fetch(Iterator<String> urls, final AmountListener listener) throws InterruptedException {
+        // 本次调用已完成的任务数，不能等待共享的 taskPermits，否则会等待其他调用提交的任务
+        final Semaphore finished = new Semaphore(0);
+        final AtomicReference<Throwable> listenerFailure = new AtomicReference<>();
+        int submitted = 0;
+        try {
+            while (urls.hasNext() && listenerFailure.get() == null) {
+                final String url = urls.next();
+                taskPermits.acquire();
+                try {
+                    executorService.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                listener.onResult(fetch(url));
+                            } catch (RuntimeException | Error e) {
+                                if (!listenerFailure.compareAndSet(null, e)) {
+                                    listenerFailure.get().addSuppressed(e);
+                                }
+                            } finally {
+                                taskPermits.release();
+                                finished.release();
+                            }
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    taskPermits.release();
+                    throw e;
+                }
+                submitted++;
+            }
+        } finally {
+            finished.acquire(submitted);
+        }
+
+        Throwable failure = listenerFailure.get();
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw (RuntimeException) failure;
+        }
+    }
+
+    /**
+     * 抓取单个url并提取金额，不抛出异常，url 不合法、请求或提取失败时返回失败结果
+     *
+     * @param url 请求url
+     * @return
+     */
+    public AmountResult fetch(String url) {
+        try {
+            // url 不合法时 HttpGet 构造抛出 IllegalArgumentException，同样以失败结果返回
+            HttpGet httpGet = new HttpGet(url);
+            CloseableHttpResponse response = httpClient.execute(httpGet);
+            try {
+                StatusLine statusLine = response.getStatusLine();
+                if (statusLine.getStatusCode() >= 300) {
+                    throw new HttpResponseException(statusLine.getStatusCode(), statusLine.getReasonPhrase());
+                }
+                HttpEntity entity = response.getEntity();
+                if (entity == null) {
+                    return new AmountResult(url, BigDecimal.ZERO, null);
+                }
+                Charset charset = ContentType.getOrDefault(entity).getCharset();
+                // reader 不关闭：关闭响应体流时 HttpClient 会读完剩余内容以复用连接
+                Reader reader = new InputStreamReader(entity.getContent(), charset != null ? charset : Consts.UTF_8);
+                return new AmountResult(url, AmountUtils.getAmount(reader), null);
+            } finally {
+                // 响应体未读完时中止请求，直接断开连接；已读完时连接已归还连接池，abort 不起作用
+                httpGet.abort();
+                response.close();
+            }
+        } catch (Exception e) {
+            return new AmountResult(url, null, e);
+        }
+    }
+
+    /**
+     * 关闭线程池和httpClient
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        executorService.shutdown();
+        httpClient.close();
+    }
+
+    /**
+     * 金额提取结果回调
+     */
+    public interface AmountListener {
+
+        /**
+         * 单个url处理完成
+         *
+         * @param result 提取结果
+         */
+        void onResult(AmountResult result);
+    }
+
+    /**
+     * 单个url的金额提取结果
+     */
+    public static class AmountResult {
+
+        private final String url;
+
+        private final BigDecimal amount;
+
+        private final Exception exception;
+
+        public AmountResult(String url, BigDecimal amount, Exception exception) {
+            this.url = url;
+            this.amount = amount;
+            this.exception = exception;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * @return 提取到的金额，单位元，没有金额时为0，抓取失败时为null
+         */
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        /**
+         * @return 抓取或提取失败的异常，成功时为null
+         */
+        public Exception getException() {
+            return exception;
+        }
+
+        public boolean isSuccess() {
+            return exception == null;
+        }
+
+        @Override
+        public String toString() {
+            return url + " = " + (isSuccess() ? amount : exception);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        AmountFetchPipeline pipeline = new AmountFetchPipeline(4);
+        try {
+            pipeline.fetch(Arrays.asList("https://www.baidu.com", "https://www.example.com").iterator(), new AmountListener() {
+                @Override
+                public void onResult(AmountResult result) {
+                    System.out.println(result);
+                }
+            });
+        } finally {
+            pipeline.close();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package personal.caojx.http;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.apache.http.ssl.TrustStrategy;
+import org.apache.http.util.EntityUtils;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+
+/**
+ * HttpClient工具类
+ *
+ * @author caojx
+ * @version $Id: HttpClientUtils.java,v 1.0 2018-12-05 21:15 caojx
+ * @date 2018-12-05 21:15
+ */
+public class HttpClientUtils {
+
+    /**
+     * 连接池httpClient默认的连接、读取、从连接池获取连接的超时时间，单位毫秒
+     */
+    public static final int DEFAULT_TIMEOUT_MILLIS = 30000;
+
+    /**
+     * 创建httpClient
+     *
+     * @return
+     */
+    public static CloseableHttpClient createSSLClientDefault() {
+        SSLConnectionSocketFactory sslsf = createTrustAllSocketFactory();
+        if (sslsf != null) {
+            return HttpClients.custom().setSSLSocketFactory(sslsf).build();
+        }
+        return HttpClients.createDefault();
+    }
+
+    /**
+     * 创建带连接池的httpClient，供多线程共用，超时时间为 {@link #DEFAULT_TIMEOUT_MILLIS}
+     *
+     * @param maxConnections 最大连接数，同时也是每个host的最大连接数
+     * @return
+     */
+    public static CloseableHttpClient createPooledSSLClient(int maxConnections) {
+        return createPooledSSLClient(maxConnections, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * 创建带连接池的httpClient，供多线程共用
+     *
+     * @param maxConnections 最大连接数，同时也是每个host的最大连接数
+     * @param timeoutMillis  连接、读取（两次读到数据的间隔）、从连接池获取连接的超时时间，单位毫秒
+     * @return
+     */
+    public static CloseableHttpClient createPooledSSLClient(int maxConnections, int timeoutMillis) {
+        RegistryBuilder<ConnectionSocketFactory> registryBuilder = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory());
+        SSLConnectionSocketFactory sslsf = createTrustAllSocketFactory();
+        registryBuilder.register("https", sslsf != null ? sslsf : SSLConnectionSocketFactory.getSocketFactory());
+        Registry<ConnectionSocketFactory> registry = registryBuilder.build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(timeoutMillis)
+                .setSocketTimeout(timeoutMillis)
+                .setConnectionRequestTimeout(timeoutMillis)
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .build();
+    }
+
+    /**
+     * 创建信任所有证书的SSL连接工厂
+     *
+     * @return 创建失败时返回null
+     */
+    private static SSLConnectionSocketFactory createTrustAllSocketFactory() {
+        try {
+            SSLContext sslContext = new SSLContextBuilder().loadTrustMaterial(null, new TrustStrategy() {
+                //信任所有
+                public boolean isTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+                    return true;
+                }
+            }).build();
+            return new SSLConnectionSocketFactory(sslContext);
+        } catch (KeyManagementException e) {
+            e.printStackTrace();
+        } catch (NoSuchAlgorithmException e) {
+            e.printStackTrace();
+        } catch (KeyStoreException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * 发送https get请求
+     *
+     * @param url 请求url
+     * @return
+     */
+    public static String getSSL(String url) {
+        String content = null;
+        CloseableHttpClient httpClient = createSSLClientDefault();
+        try {
+            HttpGet httpGet = new HttpGet(url);
+            CloseableHttpResponse response = httpClient.execute(httpGet);
+            HttpEntity entity = response.getEntity();
+            content = EntityUtils.toString(entity, "utf-8");
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return content;
+    }
+
+    public static void main(String[] args) {
+        String url = "https://www.baidu.com";
+        String content = HttpClientUtils.getSSL(url);
+        System.out.println(content);
+
+    }
+}
\ No newline at end of file
@@ -0,0 +1,376 @@
+package personal.caojx.placeholder;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+/**
+ * 编译后的属性路径，如 order.customer.name
+ * <p>
+ * 按根对象类型逐级解析出每一级属性的读取方式（Map 的 key、getter 方法、字段），编译后不可变，可以在多线程间共享。
+ * 读取时对象是编译时类型的实例则直接使用编译好的读取方式，否则（如声明类型为 Object、子类才有的属性）
+ * 按对象的实际类型从全局缓存中获取。任意一级为null或属性不存在时返回null
+ *
+ * @author caojx
+ * @version $Id: BeanPath.java,v 1.0 2026-10-19 16:00 caojx
+ * @date 2026-10-19 16:00
+ */
+final class BeanPath {
+
+    private static final char PATH_SEPARATOR = '.';
+
+    /**
+     * 按 (类型, 属性名) 缓存的读取方式数量上限
+     */
+    private static final int ACCESSOR_CACHE_SIZE = 4096;
+
+    private static final BoundedCache<AccessorKey, Accessor> accessorCache = new BoundedCache<>(ACCESSOR_CACHE_SIZE);
+
+    /**
+     * 属性不存在
+     */
+    private static final Accessor MISSING = new Accessor() {
+        @Override
+        Object get(Object target) {
+            return null;
+        }
+
+        @Override
+        Class<?> getValueType() {
+            return null;
+        }
+    };
+
+    private final String path;
+
+    private final String[] properties;
+
+    /**
+     * 每一级编译时的对象类型，类型未知时为null
+     */
+    private final Class<?>[] types;
+
+    /**
+     * 每一级编译时的读取方式
+     */
+    private final Accessor[] accessors;
+
+    private BeanPath(String path, String[] properties, Class<?>[] types, Accessor[] accessors) {
+        this.path = path;
+        this.properties = properties;
+        this.types = types;
+        this.accessors = accessors;
+    }
+
+    /**
+     * 按根对象类型编译属性路径
+     *
+     * @param path      属性路径，以 . 分隔
+     * @param rootClass 根对象类型
+     * @return
+     */
+    static BeanPath compile(String path, Class<?> rootClass) {
+        String[] properties = split(path);
+        Class<?>[] types = new Class<?>[properties.length];
+        Accessor[] accessors = new Accessor[properties.length];
+        Class<?> type = rootClass;
+        for (int i = 0; i < properties.length && type != null; i++) {
+            types[i] = type;
+            accessors[i] = accessor(type, properties[i]);
+            type = accessors[i].getValueType();
+        }
+        return new BeanPath(path, properties, types, accessors);
+    }
+
+    /**
+     * 读取属性值
+     *
+     * @param root 根对象
+     * @return 属性值，任意一级为null或属性不存在时返回null
+     */
+    Object get(Object root) {
+        Object current = root;
+        for (int i = 0; i < properties.length && current != null; i++) {
+            Accessor accessor = accessors[i];
+            if (accessor == null || accessor == MISSING || !types[i].isInstance(current)) {
+                accessor = accessor(current.getClass(), properties[i]);
+            }
+            try {
+                current = accessor.get(current);
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to read property " + properties[i] + " of path " + path
+                        + " from " + current.getClass().getName(), e);
+            }
+        }
+        return current;
+    }
+
+    private static String[] split(String path) {
+        int count = 1;
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == PATH_SEPARATOR) {
+                count++;
+            }
+        }
+        String[] properties = new String[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = path.indexOf(PATH_SEPARATOR, start);
+            if (end < 0) {
+                end = path.length();
+            }
+            properties[i] = path.substring(start, end).trim();
+            start = end + 1;
+        }
+        return properties;
+    }
+
+    /**
+     * 获取类型的属性读取方式，优先从缓存中获取
+     *
+     * @param type     对象类型
+     * @param property 属性名
+     * @return 属性不存在时返回 {@link #MISSING}
+     */
+    private static Accessor accessor(Class<?> type, String property) {
+        AccessorKey key = new AccessorKey(type, property);
+        Accessor accessor = accessorCache.get(key);
+        if (accessor == null) {
+            accessor = accessorCache.put(key, resolve(type, property));
+        }
+        return accessor;
+    }
+
+    /**
+     * 解析属性读取方式，依次查找 Map 的 key、public 的 getXxx/isXxx 方法、本类及父类的字段
+     *
+     * @param type     对象类型
+     * @param property 属性名
+     * @return 属性不存在时返回 {@link #MISSING}
+     */
+    private static Accessor resolve(Class<?> type, String property) {
+        if (property.isEmpty()) {
+            return MISSING;
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return new MapAccessor(property);
+        }
+
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        Method getter = findGetter(type, "get" + capitalized);
+        if (getter == null) {
+            getter = findGetter(type, "is" + capitalized);
+            if (getter != null && getter.getReturnType() != boolean.class && getter.getReturnType() != Boolean.class) {
+                getter = null;
+            }
+        }
+        if (getter != null) {
+            return new MethodAccessor(getter);
+        }
+
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            try {
+                Field field = clazz.getDeclaredField(property);
+                if (makeAccessible(field)) {
+                    return new FieldAccessor(field);
+                }
+            } catch (NoSuchFieldException e) {
+                // 继续在父类中查找
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * 查找可调用的 public 无参 getter
+     *
+     * @param type 对象类型
+     * @param name 方法名
+     * @return 不存在或无法调用时返回null
+     */
+    private static Method findGetter(Class<?> type, String name) {
+        Method method;
+        try {
+            method = type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        if (method.getReturnType() == void.class) {
+            return null;
+        }
+        if (Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            // 声明类是 public 时无需取消访问检查，取消成功只是为了调用更快
+            makeAccessible(method);
+            return method;
+        }
+        if (makeAccessible(method)) {
+            return method;
+        }
+        // 声明类不是 public 且无法取消访问检查（如 JDK 9+ 的 Collections$UnmodifiableCollection），
+        // 改用 public 父类或接口中的同名方法
+        return findPublicMethod(type, name);
+    }
+
+    /**
+     * 在 public 的父类和接口中查找声明类为 public 的同名无参方法
+     *
+     * @param type 对象类型
+     * @param name 方法名
+     * @return 不存在时返回null
+     */
+    private static Method findPublicMethod(Class<?> type, String name) {
+        for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+            if (clazz != type && Modifier.isPublic(clazz.getModifiers())) {
+                Method method = findPublicDeclaredMethod(clazz, name);
+                if (method != null) {
+                    return method;
+                }
+            }
+            for (Class<?> interfaceClass : clazz.getInterfaces()) {
+                Method method = Modifier.isPublic(interfaceClass.getModifiers())
+                        ? findPublicDeclaredMethod(interfaceClass, name)
+                        : null;
+                if (method == null) {
+                    method = findPublicMethod(interfaceClass, name);
+                }
+                if (method != null) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Method findPublicDeclaredMethod(Class<?> type, String name) {
+        try {
+            Method method = type.getMethod(name);
+            return Modifier.isPublic(method.getDeclaringClass().getModifiers()) ? method : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 取消访问检查
+     *
+     * @return 无法取消访问检查时返回false
+     */
+    private static boolean makeAccessible(AccessibleObject accessibleObject) {
+        try {
+            accessibleObject.setAccessible(true);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    /**
+     * 属性读取方式
+     */
+    private abstract static class Accessor {
+
+        abstract Object get(Object target) throws Exception;
+
+        /**
+         * @return 属性值的声明类型，未知时为null
+         */
+        abstract Class<?> getValueType();
+    }
+
+    private static final class MapAccessor extends Accessor {
+
+        private final String key;
+
+        MapAccessor(String key) {
+            this.key = key;
+        }
+
+        @Override
+        Object get(Object target) {
+            return ((Map<?, ?>) target).get(key);
+        }
+
+        @Override
+        Class<?> getValueType() {
+            return null;
+        }
+    }
+
+    private static final class MethodAccessor extends Accessor {
+
+        private final Method method;
+
+        MethodAccessor(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        Object get(Object target) throws IllegalAccessException, InvocationTargetException {
+            return method.invoke(target);
+        }
+
+        @Override
+        Class<?> getValueType() {
+            return method.getReturnType().isPrimitive() ? null : method.getReturnType();
+        }
+    }
+
+    private static final class FieldAccessor extends Accessor {
+
+        private final Field field;
+
+        FieldAccessor(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        Object get(Object target) throws IllegalAccessException {
+            return field.get(target);
+        }
+
+        @Override
+        Class<?> getValueType() {
+            return field.getType().isPrimitive() ? null : field.getType();
+        }
+    }
+
+    /**
+     * 读取方式缓存的key
+     */
+    private static final class AccessorKey {
+
+        private final Class<?> type;
+
+        private final String property;
+
+        AccessorKey(Class<?> type, String property) {
+            this.type = type;
+            this.property = property;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof AccessorKey)) {
+                return false;
+            }
+            AccessorKey that = (AccessorKey) o;
+            return type == that.type && property.equals(that.property);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + property.hashCode();
+        }
+    }
+}
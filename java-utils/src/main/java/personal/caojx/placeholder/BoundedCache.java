@@ -0,0 +1,59 @@
+package personal.caojx.placeholder;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 有容量上限的线程安全缓存，用于缓存编译后的模板
+ * <p>
+ * 读取不加锁；超过容量时淘汰任意一个已有条目，模板数量远小于容量时等同于不淘汰
+ *
+ * @author caojx
+ * @version $Id: BoundedCache.java,v 1.0 2026-10-19 11:00 caojx
+ * @date 2026-10-19 11:00
+ */
+final class BoundedCache<K, V> {
+
+    private final ConcurrentMap<K, V> map = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+
+    BoundedCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    V get(K key) {
+        return map.get(key);
+    }
+
+    /**
+     * 放入缓存，并发放入同一个key时返回先放入的值
+     *
+     * @param key   key
+     * @param value value
+     * @return 缓存中的值
+     */
+    V put(K key, V value) {
+        if (map.size() >= maxSize) {
+            Iterator<K> iterator = map.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        V existing = map.putIfAbsent(key, value);
+        return existing != null ? existing : value;
+    }
+
+    int size() {
+        return map.size();
+    }
+
+    void clear() {
+        map.clear();
+    }
+}
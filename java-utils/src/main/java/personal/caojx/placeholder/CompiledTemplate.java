@@ -0,0 +1,256 @@
+package personal.caojx.placeholder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 预编译的 ${name} 占位符模板
+ * <p>
+ * 模板只解析一次，拆分为文本段和变量段，渲染时按段追加，不再扫描模板。
+ * 语法与 {@link org.apache.commons.text.StringSubstitutor} 的默认配置一致：
+ * <ul>
+ * <li>${name} 变量</li>
+ * <li>${name:-默认值} 变量没有值时使用默认值</li>
+ * <li>$${name} 转义，输出 ${name}</li>
+ * </ul>
+ * 变量没有值也没有默认值时原样输出 ${name}。与 StringSubstitutor 不同，变量值原样输出，不会再对其中的占位符做替换。
+ * <p>
+ * {@link #renderBean(Object)} 直接从 Java Bean 或 Map 中读取变量，变量名按 ${order.customer.name} 写属性路径，
+ * 每种根对象类型只编译一次属性路径，不需要先把对象转成 Map。
+ * <p>
+ * 实例不可变，可以在多线程间共享
+ *
+ * @author caojx
+ * @version $Id: CompiledTemplate.java,v 1.0 2026-10-19 11:00 caojx
+ * @date 2026-10-19 11:00
+ */
+public final class CompiledTemplate {
+
+    private static final String VARIABLE_PREFIX = "${";
+
+    private static final char VARIABLE_SUFFIX = '}';
+
+    private static final char ESCAPE = '$';
+
+    private static final String DEFAULT_VALUE_DELIMITER = ":-";
+
+    /**
+     * 渲染时为每个变量预留的长度
+     */
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+    /**
+     * 每个模板缓存的根对象类型数量上限
+     */
+    private static final int BEAN_PATH_CACHE_SIZE = 16;
+
+    private final String template;
+
+    /**
+     * 文本段，比变量段多一个：literals[0] names[0] literals[1] ... names[n-1] literals[n]
+     */
+    private final String[] literals;
+
+    /**
+     * 变量名
+     */
+    private final String[] names;
+
+    /**
+     * 默认值，没有默认值时为null
+     */
+    private final String[] defaultValues;
+
+    /**
+     * 变量在模板中的原文，变量没有值时输出
+     */
+    private final String[] placeholders;
+
+    /**
+     * 渲染结果的预估长度
+     */
+    private final int estimatedLength;
+
+    /**
+     * 按根对象类型缓存的属性路径，与 names 一一对应
+     */
+    private final BoundedCache<Class<?>, BeanPath[]> beanPathCache = new BoundedCache<>(BEAN_PATH_CACHE_SIZE);
+
+    private CompiledTemplate(String template, String[] literals, String[] names, String[] defaultValues, String[] placeholders) {
+        this.template = template;
+        this.literals = literals;
+        this.names = names;
+        this.defaultValues = defaultValues;
+        this.placeholders = placeholders;
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.estimatedLength = literalLength + names.length * ESTIMATED_VALUE_LENGTH;
+    }
+
+    /**
+     * 编译模板
+     *
+     * @param template 模板
+     * @return
+     */
+    public static CompiledTemplate compile(String template) {
+        if (template == null) {
+            throw new IllegalArgumentException("template must not be null");
+        }
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> defaultValues = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int length = template.length();
+        int i = 0;
+        while (i < length) {
+            char c = template.charAt(i);
+            // $${ 转义为 ${
+            if (c == ESCAPE && template.startsWith(VARIABLE_PREFIX, i + 1)) {
+                literal.append(VARIABLE_PREFIX);
+                i += 1 + VARIABLE_PREFIX.length();
+                continue;
+            }
+            if (template.startsWith(VARIABLE_PREFIX, i)) {
+                int end = template.indexOf(VARIABLE_SUFFIX, i + VARIABLE_PREFIX.length());
+                if (end > i + VARIABLE_PREFIX.length()) {
+                    String variable = template.substring(i + VARIABLE_PREFIX.length(), end);
+                    int delimiterIndex = variable.indexOf(DEFAULT_VALUE_DELIMITER);
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    names.add(delimiterIndex < 0 ? variable : variable.substring(0, delimiterIndex));
+                    defaultValues.add(delimiterIndex < 0 ? null : variable.substring(delimiterIndex + DEFAULT_VALUE_DELIMITER.length()));
+                    placeholders.add(template.substring(i, end + 1));
+                    i = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        literals.add(literal.toString());
+
+        return new CompiledTemplate(template,
+                literals.toArray(new String[0]),
+                names.toArray(new String[0]),
+                defaultValues.toArray(new String[0]),
+                placeholders.toArray(new String[0]));
+    }
+
+    /**
+     * 渲染模板
+     *
+     * @param params 变量值
+     * @return
+     */
+    public String render(Map<String, ?> params) {
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        render(params, sb);
+        return sb.toString();
+    }
+
+    /**
+     * 渲染模板，结果追加到 sb
+     *
+     * @param params 变量值
+     * @param sb     渲染结果
+     */
+    public void render(Map<String, ?> params, StringBuilder sb) {
+        sb.append(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            appendValue(sb, i, params.get(names[i]));
+            sb.append(literals[i + 1]);
+        }
+    }
+
+    /**
+     * 从 Java Bean 或 Map 中读取变量渲染模板，变量名为属性路径，如 ${order.customer.name}
+     *
+     * @param bean 根对象
+     * @return
+     */
+    public String renderBean(Object bean) {
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        renderBean(bean, sb);
+        return sb.toString();
+    }
+
+    /**
+     * 从 Java Bean 或 Map 中读取变量渲染模板，结果追加到 sb
+     * <p>
+     * 路径中任意一级为null或属性不存在时，按变量没有值处理
+     *
+     * @param bean 根对象
+     * @param sb   渲染结果
+     * @throws IllegalStateException 调用 getter 失败
+     */
+    public void renderBean(Object bean, StringBuilder sb) {
+        BeanPath[] beanPaths = bean != null ? getBeanPaths(bean.getClass()) : null;
+        sb.append(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            appendValue(sb, i, beanPaths != null ? beanPaths[i].get(bean) : null);
+            sb.append(literals[i + 1]);
+        }
+    }
+
+    /**
+     * 获取根对象类型对应的属性路径，优先从缓存中获取
+     *
+     * @param rootClass 根对象类型
+     * @return
+     */
+    private BeanPath[] getBeanPaths(Class<?> rootClass) {
+        BeanPath[] beanPaths = beanPathCache.get(rootClass);
+        if (beanPaths == null) {
+            beanPaths = new BeanPath[names.length];
+            for (int i = 0; i < names.length; i++) {
+                beanPaths[i] = BeanPath.compile(names[i], rootClass);
+            }
+            beanPaths = beanPathCache.put(rootClass, beanPaths);
+        }
+        return beanPaths;
+    }
+
+    /**
+     * 追加变量值，值为null时使用默认值，没有默认值时追加变量原文
+     *
+     * @param sb    渲染结果
+     * @param index 变量索引
+     * @param value 变量值
+     */
+    private void appendValue(StringBuilder sb, int index, Object value) {
+        if (value instanceof CharSequence) {
+            sb.append((CharSequence) value);
+        } else if (value != null) {
+            sb.append(value.toString());
+        } else if (defaultValues[index] != null) {
+            sb.append(defaultValues[index]);
+        } else {
+            sb.append(placeholders[index]);
+        }
+    }
+
+    /**
+     * @return 渲染结果的预估长度，可用于预分配缓冲区
+     */
+    public int getEstimatedLength() {
+        return estimatedLength;
+    }
+
+    /**
+     * @return 模板原文
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
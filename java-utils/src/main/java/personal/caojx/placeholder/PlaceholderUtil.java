@@ -0,0 +1,174 @@
+package personal.caojx.placeholder;
+
+
+import org.apache.commons.text.StringSubstitutor;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 占位符替换，工具类
+ *
+ * @author caojx
+ * @version $Id: PlaceholderUtil.java,v 1.0 2019-05-09 20:32 caojx
+ * @date 2019-05-09 20:32
+ */
+public class PlaceholderUtil {
+
+    /**
+     * 编译后模板的缓存数量上限
+     */
+    private static final int TEMPLATE_CACHE_SIZE = 1024;
+
+    /**
+     * 编译后的 ${name} 模板缓存
+     */
+    private static final BoundedCache<String, CompiledTemplate> templateCache = new BoundedCache<>(TEMPLATE_CACHE_SIZE);
+
+    /**
+     * 编译后的 %s 模板缓存
+     */
+    private static final BoundedCache<String, PositionalTemplate> formatCache = new BoundedCache<>(TEMPLATE_CACHE_SIZE);
+
+    /**
+     * 编译后的 {0} 模板缓存
+     */
+    private static final BoundedCache<String, PositionalTemplate> messageFormatCache = new BoundedCache<>(TEMPLATE_CACHE_SIZE);
+
+    /**
+     * 获取编译后的 ${name} 模板，优先从缓存中获取
+     *
+     * @param template 模板
+     * @return
+     */
+    public static CompiledTemplate compile(String template) {
+        CompiledTemplate compiledTemplate = templateCache.get(template);
+        if (compiledTemplate == null) {
+            compiledTemplate = templateCache.put(template, CompiledTemplate.compile(template));
+        }
+        return compiledTemplate;
+    }
+
+    /**
+     * 替换 ${name} 占位符，模板只在第一次使用时解析
+     *
+     * @param template 模板
+     * @param params   变量值
+     * @return
+     */
+    public static String replace(String template, Map<String, ?> params) {
+        return compile(template).render(params);
+    }
+
+    /**
+     * 替换 ${order.customer.name} 占位符，变量按属性路径从 Java Bean 或 Map 中读取，不需要先把对象转成 Map
+     *
+     * @param template 模板
+     * @param bean     根对象
+     * @return
+     */
+    public static String replaceBean(String template, Object bean) {
+        return compile(template).renderBean(bean);
+    }
+
+    /**
+     * 获取编译后的 %s 模板，优先从缓存中获取
+     *
+     * @param pattern 模板
+     * @return
+     */
+    public static PositionalTemplate compileFormat(String pattern) {
+        PositionalTemplate positionalTemplate = formatCache.get(pattern);
+        if (positionalTemplate == null) {
+            positionalTemplate = formatCache.put(pattern, PositionalTemplate.compileFormat(pattern));
+        }
+        return positionalTemplate;
+    }
+
+    /**
+     * 获取编译后的 {0} 模板，优先从缓存中获取
+     *
+     * @param pattern 模板
+     * @return
+     */
+    public static PositionalTemplate compileMessageFormat(String pattern) {
+        PositionalTemplate positionalTemplate = messageFormatCache.get(pattern);
+        if (positionalTemplate == null) {
+            positionalTemplate = messageFormatCache.put(pattern, PositionalTemplate.compileMessageFormat(pattern));
+        }
+        return positionalTemplate;
+    }
+
+    /**
+     * 替换 %s 占位符，模板只在第一次使用时解析，支持的写法见 {@link PositionalTemplate}
+     *
+     * @param pattern 模板
+     * @param args    参数
+     * @return
+     */
+    public static String format(String pattern, Object... args) {
+        return compileFormat(pattern).format(args);
+    }
+
+    /**
+     * 替换 {0} 占位符，模板只在第一次使用时解析，支持的写法见 {@link PositionalTemplate}
+     *
+     * @param pattern 模板
+     * @param args    参数
+     * @return
+     */
+    public static String messageFormat(String pattern, Object... args) {
+        return compileMessageFormat(pattern).format(args);
+    }
+
+    public static void main(String[] args) {
+        //方式1
+        String templateResult1 = String.format("%s is at the age of %s", "john", "26");
+        System.out.println(templateResult1);
+
+        //方式2
+        Object[] object = new Object[]{"john", "24"};
+        MessageFormat messageFormat = new MessageFormat("{0} is at the age of {1}");
+        String templateResult2 = messageFormat.format(object);
+        System.out.println(templateResult2);
+
+        //方式3
+        /*
+         *  引入commons-text
+         *   <dependency>
+         *      <groupId>org.apache.commons</groupId>
+         *       <artifactId>commons-text</artifactId>
+         *      <version>1.6</version>
+         *   </dependency>
+         * */
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put("name", "john");
+        paramMap.put("age", "27");
+        //org.apache.commons.text.StringSubstitutor
+        StringSubstitutor stringSubstitutor = new StringSubstitutor(paramMap);
+        String template3 = "${name} is at the age of ${age}";
+        String templateResult3 = stringSubstitutor.replace(template3);
+        System.out.println(templateResult3);
+
+        //方式4，预编译模板，模板只解析一次
+        String templateResult4 = PlaceholderUtil.replace("${name} is at the age of ${age}, from ${city:-beijing}", paramMap);
+        System.out.println(templateResult4);
+
+        //方式5，预编译位置参数模板，可在多线程间共享
+        String templateResult5 = PlaceholderUtil.format("%s is at the age of %s", "john", 28);
+        System.out.println(templateResult5);
+        PositionalTemplate positionalTemplate = PlaceholderUtil.compileMessageFormat("{0} is at the age of {1}");
+        String templateResult6 = positionalTemplate.format(positionalTemplate.newArguments().set(0, "john").set(1, 29));
+        System.out.println(templateResult6);
+
+        //方式6，按属性路径从对象中读取变量
+        Map<String, Object> person = new HashMap<>();
+        person.put("name", "john");
+        person.put("age", 30);
+        Map<String, Object> order = new HashMap<>();
+        order.put("customer", person);
+        String templateResult7 = PlaceholderUtil.replaceBean("${customer.name} is at the age of ${customer.age}", order);
+        System.out.println(templateResult7);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,447 @@
+package personal.caojx.placeholder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+
+/**
+ * 预编译的位置参数模板，替代每次调用都要解析模式的 {@link String#format} 和非线程安全的 {@link java.text.MessageFormat}
+ * <p>
+ * 支持两种写法：
+ * <ul>
+ * <li>{@link #compileMessageFormat(String)}：{0}、{1}，单引号转义规则与 MessageFormat 一致，不支持 {0,number} 等格式类型</li>
+ * <li>{@link #compileFormat(String)}：%s、%d、%1$s、%%、%n，不支持宽度、精度等格式标志，%d 与 %s 输出相同</li>
+ * </ul>
+ * 参数统一按 {@link String#valueOf(Object)} 输出，数字不做千分位等本地化格式化（MessageFormat 会）；
+ * {0} 写法缺少参数时原样输出 {0}，%s 写法缺少参数时抛出 {@link MissingFormatArgumentException}。
+ * <p>
+ * 模板只解析一次，拆分为文本段和参数位置，实例不可变，可以在多线程间共享
+ *
+ * @author caojx
+ * @version $Id: PositionalTemplate.java,v 1.0 2026-10-19 14:00 caojx
+ * @date 2026-10-19 14:00
+ */
+public final class PositionalTemplate {
+
+    /**
+     * 渲染时为每个参数预留的长度
+     */
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    private final String pattern;
+
+    /**
+     * 文本段，比参数多一个：literals[0] indexes[0] literals[1] ... indexes[n-1] literals[n]
+     */
+    private final String[] literals;
+
+    /**
+     * 参数位置
+     */
+    private final int[] indexes;
+
+    /**
+     * 参数在模板中的原文，{0} 写法缺少参数时输出；%s 写法为null
+     */
+    private final String[] placeholders;
+
+    /**
+     * 参数个数，即最大参数位置+1
+     */
+    private final int argumentCount;
+
+    private final int estimatedLength;
+
+    private PositionalTemplate(String pattern, List<String> literals, List<Integer> indexes, List<String> placeholders) {
+        this.pattern = pattern;
+        this.literals = literals.toArray(new String[0]);
+        this.indexes = new int[indexes.size()];
+        int maxIndex = -1;
+        for (int i = 0; i < this.indexes.length; i++) {
+            this.indexes[i] = indexes.get(i);
+            maxIndex = Math.max(maxIndex, this.indexes[i]);
+        }
+        this.placeholders = placeholders.toArray(new String[0]);
+        this.argumentCount = maxIndex + 1;
+        int literalLength = 0;
+        for (String literal : this.literals) {
+            literalLength += literal.length();
+        }
+        this.estimatedLength = literalLength + this.indexes.length * ESTIMATED_VALUE_LENGTH;
+    }
+
+    /**
+     * 编译 MessageFormat 写法的模板，如 "{0} is at the age of {1}"
+     *
+     * @param pattern 模板
+     * @return
+     * @throws IllegalArgumentException 大括号不匹配或包含格式类型
+     */
+    public static PositionalTemplate compileMessageFormat(String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("pattern must not be null");
+        }
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        boolean inQuote = false;
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                // '' 输出一个单引号，单个单引号开始或结束转义
+                if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i += 2;
+                } else {
+                    inQuote = !inQuote;
+                    i++;
+                }
+                continue;
+            }
+            if (c == '{' && !inQuote) {
+                int end = pattern.indexOf('}', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unmatched braces in the pattern: " + pattern);
+                }
+                String argument = pattern.substring(i + 1, end).trim();
+                literals.add(literal.toString());
+                literal.setLength(0);
+                indexes.add(parseIndex(argument, pattern));
+                placeholders.add(pattern.substring(i, end + 1));
+                i = end + 1;
+                continue;
+            }
+            literal.append(c);
+            i++;
+        }
+        literals.add(literal.toString());
+        return new PositionalTemplate(pattern, literals, indexes, placeholders);
+    }
+
+    /**
+     * 编译 String.format 写法的模板，如 "%s is at the age of %s"
+     *
+     * @param pattern 模板
+     * @return
+     * @throws UnknownFormatConversionException 包含 %s、%d、%%、%n 以外的转换
+     */
+    public static PositionalTemplate compileFormat(String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("pattern must not be null");
+        }
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int nextIndex = 0;
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            // %1$s 显式指定参数位置，从1开始
+            int j = i + 1;
+            while (j < length && Character.isDigit(pattern.charAt(j))) {
+                j++;
+            }
+            int explicitIndex = -1;
+            if (j > i + 1) {
+                if (j >= length || pattern.charAt(j) != '$') {
+                    throw new UnknownFormatConversionException(pattern.substring(i, Math.min(j + 1, length)));
+                }
+                explicitIndex = Integer.parseInt(pattern.substring(i + 1, j)) - 1;
+                if (explicitIndex < 0) {
+                    throw new UnknownFormatConversionException(pattern.substring(i, j + 1));
+                }
+                j++;
+            }
+            if (j >= length) {
+                throw new UnknownFormatConversionException(pattern.substring(i));
+            }
+            char conversion = pattern.charAt(j);
+            if (explicitIndex < 0 && conversion == '%') {
+                literal.append('%');
+            } else if (explicitIndex < 0 && conversion == 'n') {
+                literal.append(LINE_SEPARATOR);
+            } else if (conversion == 's' || conversion == 'd') {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                indexes.add(explicitIndex >= 0 ? explicitIndex : nextIndex++);
+                placeholders.add(null);
+            } else {
+                throw new UnknownFormatConversionException(String.valueOf(conversion));
+            }
+            i = j + 1;
+        }
+        literals.add(literal.toString());
+        return new PositionalTemplate(pattern, literals, indexes, placeholders);
+    }
+
+    /**
+     * 解析 {0} 中的参数位置
+     *
+     * @param argument 大括号中的内容
+     * @param pattern  模板
+     * @return
+     */
+    private static int parseIndex(String argument, String pattern) {
+        if (argument.isEmpty()) {
+            throw new IllegalArgumentException("Missing argument index in the pattern: " + pattern);
+        }
+        for (int i = 0; i < argument.length(); i++) {
+            if (!Character.isDigit(argument.charAt(i))) {
+                throw new IllegalArgumentException("Unsupported argument {" + argument + "} in the pattern: " + pattern);
+            }
+        }
+        return Integer.parseInt(argument);
+    }
+
+    /**
+     * 渲染模板
+     *
+     * @param args 参数
+     * @return
+     */
+    public String format(Object... args) {
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        format(args, sb);
+        return sb.toString();
+    }
+
+    /**
+     * 渲染模板，结果追加到 sb
+     *
+     * @param args 参数
+     * @param sb   渲染结果
+     */
+    public void format(Object[] args, StringBuilder sb) {
+        try {
+            formatTo(args, sb);
+        } catch (IOException e) {
+            // StringBuilder 不会抛出 IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 渲染模板，文本段和参数逐段直接追加到 out，不经过中间缓冲区
+     *
+     * @param args 参数
+     * @param out  渲染结果
+     * @throws IOException 写入失败
+     */
+    public void format(Object[] args, Appendable out) throws IOException {
+        formatTo(args, out);
+    }
+
+    /**
+     * 使用可复用的参数渲染模板，int、long 参数不装箱
+     *
+     * @param args 参数
+     * @param sb   渲染结果
+     */
+    public void format(Arguments args, StringBuilder sb) {
+        try {
+            formatTo(args, sb);
+        } catch (IOException e) {
+            // StringBuilder 不会抛出 IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 使用可复用的参数渲染模板，int、long 参数不装箱，文本段和参数逐段直接追加到 out
+     *
+     * @param args 参数
+     * @param out  渲染结果
+     * @throws IOException 写入失败
+     */
+    public void format(Arguments args, Appendable out) throws IOException {
+        formatTo(args, out);
+    }
+
+    /**
+     * 使用可复用的参数渲染模板，int、long 参数不装箱
+     *
+     * @param args 参数
+     * @return
+     */
+    public String format(Arguments args) {
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        format(args, sb);
+        return sb.toString();
+    }
+
+    /**
+     * 创建与模板参数个数相同的可复用参数
+     *
+     * @return
+     */
+    public Arguments newArguments() {
+        return new Arguments(argumentCount);
+    }
+
+    private void formatTo(Object[] args, Appendable out) throws IOException {
+        out.append(literals[0]);
+        for (int i = 0; i < indexes.length; i++) {
+            int index = indexes[i];
+            if (args != null && index < args.length) {
+                appendObject(out, args[index]);
+            } else {
+                appendMissing(out, i);
+            }
+            out.append(literals[i + 1]);
+        }
+    }
+
+    private void formatTo(Arguments args, Appendable out) throws IOException {
+        out.append(literals[0]);
+        for (int i = 0; i < indexes.length; i++) {
+            int index = indexes[i];
+            if (index < args.size()) {
+                args.appendTo(out, index);
+            } else {
+                appendMissing(out, i);
+            }
+            out.append(literals[i + 1]);
+        }
+    }
+
+    private void appendMissing(Appendable out, int i) throws IOException {
+        if (placeholders[i] == null) {
+            throw new MissingFormatArgumentException("%" + (indexes[i] + 1) + "$s");
+        }
+        out.append(placeholders[i]);
+    }
+
+    /**
+     * 追加参数，String 等字符序列直接追加，整数交给 {@link #appendLong(Appendable, long)}
+     *
+     * @param out   渲染结果
+     * @param value 参数
+     */
+    private static void appendObject(Appendable out, Object value) throws IOException {
+        if (value instanceof CharSequence) {
+            out.append((CharSequence) value);
+        } else if (value instanceof Integer || value instanceof Long) {
+            appendLong(out, ((Number) value).longValue());
+        } else {
+            out.append(String.valueOf(value));
+        }
+    }
+
+    /**
+     * 追加整数，out 为 StringBuilder 时直接写入数字，不生成 String
+     *
+     * @param out   渲染结果
+     * @param value 整数
+     */
+    private static void appendLong(Appendable out, long value) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            out.append(Long.toString(value));
+        }
+    }
+
+    /**
+     * @return 参数个数，即最大参数位置+1
+     */
+    public int getArgumentCount() {
+        return argumentCount;
+    }
+
+    /**
+     * @return 模板原文
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * 可复用的模板参数，int、long 参数以原始类型保存，不装箱
+     * <p>
+     * 非线程安全，每个线程使用自己的实例
+     */
+    public static final class Arguments {
+
+        private final Object[] objects;
+
+        private final long[] longs;
+
+        /**
+         * 对应位置是否为 int、long 参数
+         */
+        private final boolean[] isLong;
+
+        public Arguments(int size) {
+            this.objects = new Object[size];
+            this.longs = new long[size];
+            this.isLong = new boolean[size];
+        }
+
+        public Arguments set(int index, Object value) {
+            objects[index] = value;
+            isLong[index] = false;
+            return this;
+        }
+
+        public Arguments set(int index, String value) {
+            return set(index, (Object) value);
+        }
+
+        public Arguments set(int index, int value) {
+            return set(index, (long) value);
+        }
+
+        public Arguments set(int index, long value) {
+            objects[index] = null;
+            longs[index] = value;
+            isLong[index] = true;
+            return this;
+        }
+
+        public int size() {
+            return objects.length;
+        }
+
+        /**
+         * 清空参数，释放对象引用
+         *
+         * @return
+         */
+        public Arguments clear() {
+            for (int i = 0; i < objects.length; i++) {
+                objects[i] = null;
+                isLong[i] = false;
+            }
+            return this;
+        }
+
+        void appendTo(Appendable out, int index) throws IOException {
+            if (isLong[index]) {
+                appendLong(out, longs[index]);
+            } else {
+                appendObject(out, objects[index]);
+            }
+        }
+    }
+}
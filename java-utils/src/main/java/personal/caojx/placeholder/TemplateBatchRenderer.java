@@ -0,0 +1,375 @@
+package personal.caojx.placeholder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 批量渲染模板（邮件合并）
+ * <p>
+ * 一个模板对一批参数逐个渲染，结果直接写入 {@link Writer} 或 {@link WritableByteChannel}，每条结果之间写入分隔符。
+ * 渲染结果先追加到可复用的 StringBuilder，再经可复用的 char/byte 缓冲区写出，不会为每条结果生成 String。
+ * <p>
+ * 并行度大于1时，调用线程按块读取参数，每块交给线程池渲染，按读取顺序写出，输出顺序与参数顺序一致。
+ * 此时参数 Map 在读取后由其他线程渲染，每次 next() 必须返回独立的 Map，且返回后不能再修改；
+ * 复用同一个可变 Map 逐行填值的写法只能使用顺序渲染（并行度为1）。
+ * Stream 可以通过 stream.iterator() 传入
+ *
+ * @author caojx
+ * @version $Id: TemplateBatchRenderer.java,v 1.0 2026-10-19 15:00 caojx
+ * @date 2026-10-19 15:00
+ */
+public class TemplateBatchRenderer implements Closeable {
+
+    /**
+     * 默认每块的参数个数
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    /**
+     * 缓冲区大小，顺序渲染时结果超过该长度即写出
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    private final int parallelism;
+
+    private final int chunkSize;
+
+    /**
+     * 并行度为1时为null，在调用线程中渲染
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * 写出后回收的 StringBuilder，供后续块复用
+     */
+    private final Queue<StringBuilder> builderPool = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 在调用线程中顺序渲染
+     */
+    public TemplateBatchRenderer() {
+        this(1, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param parallelism 并行渲染的线程数，为1时在调用线程中顺序渲染
+     * @param chunkSize   每块的参数个数
+     */
+    public TemplateBatchRenderer(int parallelism, int chunkSize) {
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("parallelism and chunkSize must be positive");
+        }
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.executorService = parallelism > 1 ? Executors.newFixedThreadPool(parallelism) : null;
+    }
+
+    /**
+     * 批量渲染，结果写入 writer，写完后 flush，不关闭 writer
+     *
+     * @param template  模板
+     * @param params    每条结果的参数，并行渲染时每次 next() 须返回独立且不再修改的 Map
+     * @param separator 每条结果后写入的分隔符，如换行符
+     * @param writer    输出
+     * @return 渲染条数
+     * @throws IOException 写入失败
+     */
+    public long render(CompiledTemplate template, Iterator<? extends Map<String, ?>> params, String separator, Writer writer) throws IOException {
+        return render(template, params, separator, new WriterSink(writer));
+    }
+
+    /**
+     * 批量渲染，结果按 charset 编码后写入 channel，不关闭 channel
+     *
+     * @param template  模板
+     * @param params    每条结果的参数，并行渲染时每次 next() 须返回独立且不再修改的 Map
+     * @param separator 每条结果后写入的分隔符，如换行符
+     * @param channel   输出
+     * @param charset   编码
+     * @return 渲染条数
+     * @throws IOException 写入失败
+     */
+    public long render(CompiledTemplate template, Iterator<? extends Map<String, ?>> params, String separator,
+                       WritableByteChannel channel, Charset charset) throws IOException {
+        return render(template, params, separator, new ChannelSink(channel, charset));
+    }
+
+    private long render(CompiledTemplate template, Iterator<? extends Map<String, ?>> params, String separator, Sink sink) throws IOException {
+        long count = executorService == null
+                ? renderSequential(template, params, separator, sink)
+                : renderParallel(template, params, separator, sink);
+        sink.finish();
+        return count;
+    }
+
+    private long renderSequential(CompiledTemplate template, Iterator<? extends Map<String, ?>> params, String separator, Sink sink) throws IOException {
+        StringBuilder sb = borrowBuilder(BUFFER_SIZE + template.getEstimatedLength());
+        long count = 0;
+        while (params.hasNext()) {
+            template.render(params.next(), sb);
+            sb.append(separator);
+            count++;
+            if (sb.length() >= BUFFER_SIZE) {
+                sink.write(sb);
+                sb.setLength(0);
+            }
+        }
+        sink.write(sb);
+        returnBuilder(sb);
+        return count;
+    }
+
+    private long renderParallel(CompiledTemplate template, Iterator<? extends Map<String, ?>> params, String separator, Sink sink) throws IOException {
+        // 最多同时存在 2 倍并行度的块，限制内存占用
+        int maxPendingChunks = parallelism * 2;
+        ArrayDeque<Future<StringBuilder>> pendingChunks = new ArrayDeque<>(maxPendingChunks);
+        long count = 0;
+        try {
+            while (params.hasNext()) {
+                List<Map<String, ?>> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && params.hasNext()) {
+                    chunk.add(params.next());
+                }
+                count += chunk.size();
+                pendingChunks.add(executorService.submit(new RenderTask(template, chunk, separator)));
+                if (pendingChunks.size() >= maxPendingChunks) {
+                    writeChunk(pendingChunks.poll(), sink);
+                }
+            }
+            while (!pendingChunks.isEmpty()) {
+                writeChunk(pendingChunks.poll(), sink);
+            }
+        } finally {
+            for (Future<StringBuilder> pendingChunk : pendingChunks) {
+                pendingChunk.cancel(true);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 等待块渲染完成并写出，写出后回收 StringBuilder
+     *
+     * @param future 块渲染结果
+     * @param sink   输出
+     * @throws IOException 写入失败
+     */
+    private void writeChunk(Future<StringBuilder> future, Sink sink) throws IOException {
+        StringBuilder sb;
+        try {
+            sb = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while rendering");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+        sink.write(sb);
+        returnBuilder(sb);
+    }
+
+    private StringBuilder borrowBuilder(int capacity) {
+        StringBuilder sb = builderPool.poll();
+        return sb != null ? sb : new StringBuilder(capacity);
+    }
+
+    private void returnBuilder(StringBuilder sb) {
+        sb.setLength(0);
+        builderPool.offer(sb);
+    }
+
+    /**
+     * 关闭线程池
+     */
+    @Override
+    public void close() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+        builderPool.clear();
+    }
+
+    /**
+     * 渲染一块参数
+     */
+    private class RenderTask implements Callable<StringBuilder> {
+
+        private final CompiledTemplate template;
+
+        private final List<Map<String, ?>> chunk;
+
+        private final String separator;
+
+        RenderTask(CompiledTemplate template, List<Map<String, ?>> chunk, String separator) {
+            this.template = template;
+            this.chunk = chunk;
+            this.separator = separator;
+        }
+
+        @Override
+        public StringBuilder call() {
+            StringBuilder sb = borrowBuilder((template.getEstimatedLength() + separator.length()) * chunk.size());
+            for (Map<String, ?> params : chunk) {
+                template.render(params, sb);
+                sb.append(separator);
+            }
+            return sb;
+        }
+    }
+
+    /**
+     * 渲染结果的输出
+     */
+    private interface Sink {
+
+        void write(StringBuilder sb) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * 经可复用的 char 缓冲区写入 Writer
+     */
+    private static class WriterSink implements Sink {
+
+        private final Writer writer;
+
+        private final char[] buffer = new char[BUFFER_SIZE];
+
+        WriterSink(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(StringBuilder sb) throws IOException {
+            int length = sb.length();
+            for (int offset = 0; offset < length; offset += buffer.length) {
+                int len = Math.min(buffer.length, length - offset);
+                sb.getChars(offset, offset + len, buffer, 0);
+                writer.write(buffer, 0, len);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * 经可复用的 byte 缓冲区编码后写入 WritableByteChannel
+     */
+    private static class ChannelSink implements Sink {
+
+        private final WritableByteChannel channel;
+
+        private final CharsetEncoder encoder;
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        ChannelSink(WritableByteChannel channel, Charset charset) {
+            this.channel = channel;
+            // 与 String.getBytes 一样替换无法编码的字符
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        @Override
+        public void write(StringBuilder sb) throws IOException {
+            encode(CharBuffer.wrap(sb), false);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            encode(CharBuffer.allocate(0), true);
+            CoderResult result;
+            while ((result = encoder.flush(buffer)).isOverflow()) {
+                drain();
+            }
+            throwIfError(result);
+            drain();
+            encoder.reset();
+        }
+
+        private void encode(CharBuffer in, boolean endOfInput) throws IOException {
+            while (true) {
+                CoderResult result = encoder.encode(in, buffer, endOfInput);
+                if (result.isOverflow()) {
+                    drain();
+                } else {
+                    throwIfError(result);
+                    break;
+                }
+            }
+            if (!endOfInput && buffer.position() > 0) {
+                drain();
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private static void throwIfError(CoderResult result) throws CharacterCodingException {
+            if (result.isError()) {
+                result.throwException();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        CompiledTemplate template = PlaceholderUtil.compile("Dear ${name}, your order ${orderNo} has shipped.");
+        List<Map<String, ?>> params = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> param = new HashMap<>();
+            param.put("name", "john" + i);
+            param.put("orderNo", 1000 + i);
+            params.add(param);
+        }
+
+        StringWriter writer = new StringWriter();
+        TemplateBatchRenderer renderer = new TemplateBatchRenderer(Math.max(2, Runtime.getRuntime().availableProcessors()), 2);
+        try {
+            renderer.render(template, params.iterator(), "\n", writer);
+        } finally {
+            renderer.close();
+        }
+        System.out.print(writer);
+    }
+}
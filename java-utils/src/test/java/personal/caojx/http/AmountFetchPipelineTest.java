@@ -0,0 +1,223 @@
+package personal.caojx.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * AmountFetchPipeline 测试
+ *
+ * @author caojx
+ * @version $Id: AmountFetchPipelineTest.java,v 1.0 2026-10-20 10:00 caojx
+ * @date 2026-10-20 10:00
+ */
+public class AmountFetchPipelineTest {
+
+    /**
+     * 响应体大小 50MB
+     */
+    private static final long BODY_SIZE = 50L * 1024 * 1024;
+
+    private HttpServer server;
+
+    /**
+     * 服务端已写出的字节数
+     */
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    /**
+     * 释放卡住的请求
+     */
+    private final CountDownLatch stalled = new CountDownLatch(1);
+
+    /**
+     * 卡住的请求已到达服务端
+     */
+    private final CountDownLatch stalledReceived = new CountDownLatch(1);
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/notice", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+                exchange.sendResponseHeaders(200, BODY_SIZE);
+                byte[] head = "已履行行政处罚决定,罚款10000元。".getBytes(StandardCharsets.UTF_8);
+                byte[] chunk = new byte[64 * 1024];
+                Arrays.fill(chunk, (byte) 'a');
+                System.arraycopy(head, 0, chunk, 0, head.length);
+                OutputStream out = exchange.getResponseBody();
+                try {
+                    for (long written = 0; written < BODY_SIZE; written += chunk.length) {
+                        out.write(chunk, 0, (int) Math.min(chunk.length, BODY_SIZE - written));
+                        bytesWritten.addAndGet(Math.min(chunk.length, BODY_SIZE - written));
+                        Arrays.fill(chunk, 0, head.length, (byte) 'a');
+                    }
+                } catch (IOException e) {
+                    // 客户端断开连接
+                } finally {
+                    exchange.close();
+                }
+            }
+        });
+        server.createContext("/stalled", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.sendResponseHeaders(200, BODY_SIZE);
+                stalledReceived.countDown();
+                try {
+                    stalled.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    exchange.close();
+                }
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        stalled.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    public void fetchStopsDownloadingAfterAmountFound() throws IOException {
+        AmountFetchPipeline pipeline = new AmountFetchPipeline(1);
+        try {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/notice";
+            AmountFetchPipeline.AmountResult result = pipeline.fetch(url);
+
+            assertTrue(String.valueOf(result.getException()), result.isSuccess());
+            assertEquals(0, new BigDecimal(10000).compareTo(result.getAmount()));
+            assertTrue("body fully downloaded: " + bytesWritten.get(), bytesWritten.get() < BODY_SIZE);
+        } finally {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    public void fetchTimesOutOnStalledServer() throws IOException {
+        AmountFetchPipeline pipeline = new AmountFetchPipeline(1, 0, 500);
+        try {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/stalled";
+            AmountFetchPipeline.AmountResult result = pipeline.fetch(url);
+
+            assertFalse(result.isSuccess());
+            assertTrue(String.valueOf(result.getException()), result.getException() instanceof SocketTimeoutException);
+        } finally {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    public void fetchReportsMalformedUrlAsFailure() throws Exception {
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        List<String> urls = Arrays.asList(base + "/notice", base + "/a b", base + "/x?q=|");
+        final List<AmountFetchPipeline.AmountResult> results =
+                Collections.synchronizedList(new ArrayList<AmountFetchPipeline.AmountResult>());
+        AmountFetchPipeline pipeline = new AmountFetchPipeline(2);
+        try {
+            pipeline.fetch(urls.iterator(), new AmountFetchPipeline.AmountListener() {
+                @Override
+                public void onResult(AmountFetchPipeline.AmountResult result) {
+                    results.add(result);
+                }
+            });
+        } finally {
+            pipeline.close();
+        }
+
+        assertEquals(urls.size(), results.size());
+        HashSet<String> resultUrls = new HashSet<>();
+        for (AmountFetchPipeline.AmountResult result : results) {
+            resultUrls.add(result.getUrl());
+            if (!result.getUrl().endsWith("/notice")) {
+                assertFalse(result.isSuccess());
+                assertTrue(String.valueOf(result.getException()), result.getException().getCause() instanceof URISyntaxException);
+            }
+        }
+        assertEquals(new HashSet<>(urls), resultUrls);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void fetchRethrowsListenerException() throws Exception {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/notice";
+        AmountFetchPipeline pipeline = new AmountFetchPipeline(1);
+        try {
+            pipeline.fetch(Arrays.asList(url, url).iterator(), new AmountFetchPipeline.AmountListener() {
+                @Override
+                public void onResult(AmountFetchPipeline.AmountResult result) {
+                    throw new IllegalStateException("listener failed");
+                }
+            });
+        } finally {
+            pipeline.close();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void concurrentFetchDoesNotWaitForOtherCalls() throws Exception {
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        final AmountFetchPipeline pipeline = new AmountFetchPipeline(2);
+        final List<AmountFetchPipeline.AmountResult> results =
+                Collections.synchronizedList(new ArrayList<AmountFetchPipeline.AmountResult>());
+        final AmountFetchPipeline.AmountListener listener = new AmountFetchPipeline.AmountListener() {
+            @Override
+            public void onResult(AmountFetchPipeline.AmountResult result) {
+                results.add(result);
+            }
+        };
+        final List<String> stalledUrls = Collections.singletonList(base + "/stalled");
+        Thread stalledCall = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    pipeline.fetch(stalledUrls.iterator(), listener);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        try {
+            stalledCall.start();
+            stalledReceived.await();
+
+            pipeline.fetch(Collections.singletonList(base + "/notice").iterator(), listener);
+
+            assertEquals(1, results.size());
+            assertTrue(String.valueOf(results.get(0).getException()), results.get(0).isSuccess());
+        } finally {
+            stalled.countDown();
+            stalledCall.join();
+            pipeline.close();
+        }
+    }
+}
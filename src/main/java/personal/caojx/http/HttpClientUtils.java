@@ -1,87 +0,0 @@
-package personal.caojx.http;
-
-import org.apache.http.HttpEntity;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.ssl.SSLContextBuilder;
-import org.apache.http.ssl.TrustStrategy;
-import org.apache.http.util.EntityUtils;
-
-import javax.net.ssl.SSLContext;
-import java.io.IOException;
-import java.security.KeyManagementException;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
-
-/**
- * HttpClient工具类
- *
- * @author caojx
- * @version $Id: HttpClientUtils.java,v 1.0 2018-12-05 21:15 caojx
- * @date 2018-12-05 21:15
- */
-public class HttpClientUtils {
-
-    /**
-     * 创建httpClient
-     *
-     * @return
-     */
-    public static CloseableHttpClient createSSLClientDefault() {
-        try {
-            SSLContext sslContext = new SSLContextBuilder().loadTrustMaterial(null, new TrustStrategy() {
-                //信任所有
-                public boolean isTrusted(X509Certificate[] chain, String authType) throws CertificateException {
-                    return true;
-                }
-            }).build();
-            SSLConnectionSocketFactory sslsf = new SSLConnectionSocketFactory(sslContext);
-            return HttpClients.custom().setSSLSocketFactory(sslsf).build();
-        } catch (KeyManagementException e) {
-            e.printStackTrace();
-        } catch (NoSuchAlgorithmException e) {
-            e.printStackTrace();
-        } catch (KeyStoreException e) {
-            e.printStackTrace();
-        }
-        return HttpClients.createDefault();
-    }
-
-    /**
-     * 发送https get请求
-     *
-     * @param url 请求url
-     * @return
-     */
-    public static String getSSL(String url) {
-        String content = null;
-        CloseableHttpClient httpClient = createSSLClientDefault();
-        try {
-            HttpGet httpGet = new HttpGet(url);
-            CloseableHttpResponse response = httpClient.execute(httpGet);
-            HttpEntity entity = response.getEntity();
-            content = EntityUtils.toString(entity, "utf-8");
-        } catch (Exception e) {
-            e.printStackTrace();
-        } finally {
-            try {
-                httpClient.close();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }
-        return content;
-    }
-
-    public static void main(String[] args) {
-        String url = "https://www.baidu.com";
-        String content = HttpClientUtils.getSSL(url);
-        System.out.println(content);
-
-    }
-}
\ No newline at end of file